@@ -5,13 +5,17 @@ import java.util.*;
 
 /**
  * Configuration access class that provides type-safe access to configuration values.
+ * <p>
+ * The configuration map is deep-copied on construction, so a {@code Config} is an immutable
+ * snapshot that is not affected by later changes to the map it was created from.
  */
 public class Config {
     private final Map<String, Object> configMap;
     private final ObjectMapper objectMapper;
     
+    @SuppressWarnings("unchecked")
     public Config(Map<String, Object> configMap) {
-        this.configMap = new HashMap<>(configMap);
+        this.configMap = (Map<String, Object>) copyOf(configMap);
         this.objectMapper = new ObjectMapper();
     }
     
@@ -19,15 +23,42 @@ public class Config {
      * Get a string value from configuration.
      */
     public String getString(String key, String defaultValue) {
-        Object value = getValue(key);
-        return value != null ? String.valueOf(value) : defaultValue;
+        return asString(getValue(key), defaultValue);
     }
     
     /**
      * Get an integer value from configuration.
      */
     public int getInt(String key, int defaultValue) {
-        Object value = getValue(key);
+        return asInt(getValue(key), defaultValue);
+    }
+    
+    /**
+     * Get a long value from configuration.
+     */
+    public long getLong(String key, long defaultValue) {
+        return asLong(getValue(key), defaultValue);
+    }
+    
+    /**
+     * Get a double value from configuration.
+     */
+    public double getDouble(String key, double defaultValue) {
+        return asDouble(getValue(key), defaultValue);
+    }
+    
+    /**
+     * Get a boolean value from configuration.
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return asBoolean(getValue(key), defaultValue);
+    }
+    
+    static String asString(Object value, String defaultValue) {
+        return value != null ? String.valueOf(value) : defaultValue;
+    }
+    
+    static int asInt(Object value, int defaultValue) {
         if (value == null) return defaultValue;
         
         if (value instanceof Number) {
@@ -41,11 +72,7 @@ public class Config {
         }
     }
     
-    /**
-     * Get a long value from configuration.
-     */
-    public long getLong(String key, long defaultValue) {
-        Object value = getValue(key);
+    static long asLong(Object value, long defaultValue) {
         if (value == null) return defaultValue;
         
         if (value instanceof Number) {
@@ -59,11 +86,7 @@ public class Config {
         }
     }
     
-    /**
-     * Get a double value from configuration.
-     */
-    public double getDouble(String key, double defaultValue) {
-        Object value = getValue(key);
+    static double asDouble(Object value, double defaultValue) {
         if (value == null) return defaultValue;
         
         if (value instanceof Number) {
@@ -77,11 +100,7 @@ public class Config {
         }
     }
     
-    /**
-     * Get a boolean value from configuration.
-     */
-    public boolean getBoolean(String key, boolean defaultValue) {
-        Object value = getValue(key);
+    static boolean asBoolean(Object value, boolean defaultValue) {
         if (value == null) return defaultValue;
         
         if (value instanceof Boolean) {
@@ -164,13 +183,50 @@ public class Config {
         }
     }
     
-    @SuppressWarnings("unchecked")
+    /**
+     * Resolve all keys of the given projection against this configuration in a single pass.
+     */
+    public ConfigProjection.Result project(ConfigProjection projection) {
+        return projection.resolve(this);
+    }
+    
+    private static Object copyOf(Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> copy = new HashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                copy.put(entry.getKey(), copyOf(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(copy);
+        }
+        
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>();
+            for (Object item : (List<?>) value) {
+                copy.add(copyOf(item));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        
+        return value;
+    }
+    
     private Object getValue(String key) {
         if (key == null || key.trim().isEmpty()) {
             return null;
         }
         
-        String[] keyParts = key.split("\\.");
+        return getValue(key.split("\\."));
+    }
+    
+    /**
+     * Look up a value by a key that has already been split into its path segments.
+     */
+    @SuppressWarnings("unchecked")
+    Object getValue(String[] keyParts) {
+        if (keyParts.length == 0) {
+            return null;
+        }
+        
         Map<String, Object> current = configMap;
         
         for (int i = 0; i < keyParts.length - 1; i++) {
@@ -20,7 +20,7 @@ public class ConfigManager {
     private final Map<String, com.github.a20118dfd.configutils.loader.ConfigLoader> loaders;
     private final Map<String, Long> lastModified;
     
-    private Config currentConfig;
+    private volatile Config currentConfig;
     private ScheduledExecutorService scheduler;
     
     private ConfigManager(Builder builder) {
@@ -51,6 +51,13 @@ public class ConfigManager {
         return currentConfig;
     }
     
+    /**
+     * Resolve all keys of the given projection against the current configuration snapshot.
+     */
+    public ConfigProjection.Result project(ConfigProjection projection) {
+        return projection.resolve(currentConfig);
+    }
+    
     /**
      * Reload configuration from all sources.
      */
@@ -0,0 +1,296 @@
+import java.util.*;
+
+/**
+ * Precompiled set of typed configuration keys that are resolved together against a single
+ * {@link Config} snapshot.
+ * <p>
+ * Keys are split once when the projection is built, and the resolved values are stored in flat
+ * primitive slots. Since a {@link Config} is an immutable snapshot, the last result is cached per
+ * {@link Config} instance, so repeated calls against the same instance return the same
+ * {@link Result} without walking the configuration again.
+ */
+public class ConfigProjection {
+
+    private enum Type { STRING, INT, LONG, DOUBLE, BOOLEAN }
+
+    private final String[] keys;
+    private final String[][] keyParts;
+    private final Type[] types;
+    private final int[] slots;
+    private final Object[] defaults;
+    private final Map<String, Integer> indexes;
+    private final int[] slotCounts;
+
+    private volatile Result cached;
+
+    private ConfigProjection(Builder builder) {
+        int size = builder.keys.size();
+        this.keys = builder.keys.toArray(new String[0]);
+        this.keyParts = builder.keyParts.toArray(new String[0][]);
+        this.types = builder.types.toArray(new Type[0]);
+        this.slots = new int[size];
+        this.defaults = builder.defaults.toArray();
+        this.indexes = new HashMap<>();
+        this.slotCounts = new int[Type.values().length];
+
+        for (int i = 0; i < size; i++) {
+            slots[i] = slotCounts[types[i].ordinal()]++;
+            indexes.put(keys[i], i);
+        }
+    }
+
+    /**
+     * Resolve all keys against the given configuration, reusing the cached result if it was
+     * produced from the same snapshot.
+     */
+    public Result resolve(Config config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Config must not be null");
+        }
+
+        Result result = cached;
+        if (result != null && result.config == config) {
+            return result;
+        }
+
+        result = new Result(config);
+        cached = result;
+        return result;
+    }
+
+    /**
+     * Get the position of a key in this projection, or -1 if it is not part of it.
+     */
+    public int indexOf(String key) {
+        Integer index = indexes.get(key);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Get the number of keys in this projection.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Values of a projection resolved against one configuration snapshot.
+     * Keys can be addressed by name or, to skip the name lookup, by the position they were added in.
+     */
+    public class Result {
+        private final Config config;
+        private final String[] strings;
+        private final int[] ints;
+        private final long[] longs;
+        private final double[] doubles;
+        private final boolean[] booleans;
+        private final boolean[] present;
+
+        private Result(Config config) {
+            this.config = config;
+            this.strings = new String[slotCounts[Type.STRING.ordinal()]];
+            this.ints = new int[slotCounts[Type.INT.ordinal()]];
+            this.longs = new long[slotCounts[Type.LONG.ordinal()]];
+            this.doubles = new double[slotCounts[Type.DOUBLE.ordinal()]];
+            this.booleans = new boolean[slotCounts[Type.BOOLEAN.ordinal()]];
+            this.present = new boolean[keys.length];
+
+            for (int i = 0; i < keys.length; i++) {
+                Object value = config.getValue(keyParts[i]);
+                present[i] = value != null;
+
+                switch (types[i]) {
+                    case STRING:
+                        strings[slots[i]] = Config.asString(value, (String) defaults[i]);
+                        break;
+                    case INT:
+                        ints[slots[i]] = Config.asInt(value, (Integer) defaults[i]);
+                        break;
+                    case LONG:
+                        longs[slots[i]] = Config.asLong(value, (Long) defaults[i]);
+                        break;
+                    case DOUBLE:
+                        doubles[slots[i]] = Config.asDouble(value, (Double) defaults[i]);
+                        break;
+                    case BOOLEAN:
+                        booleans[slots[i]] = Config.asBoolean(value, (Boolean) defaults[i]);
+                        break;
+                }
+            }
+        }
+
+        /**
+         * Get the configuration snapshot this result was resolved from.
+         */
+        public Config getConfig() {
+            return config;
+        }
+
+        /**
+         * Get a string value by the position its key was added to the projection in.
+         */
+        public String getString(int index) {
+            return strings[slot(index, Type.STRING)];
+        }
+
+        /**
+         * Get a string value by its key.
+         */
+        public String getString(String key) {
+            return getString(index(key));
+        }
+
+        /**
+         * Get an integer value by the position its key was added to the projection in.
+         */
+        public int getInt(int index) {
+            return ints[slot(index, Type.INT)];
+        }
+
+        /**
+         * Get an integer value by its key.
+         */
+        public int getInt(String key) {
+            return getInt(index(key));
+        }
+
+        /**
+         * Get a long value by the position its key was added to the projection in.
+         */
+        public long getLong(int index) {
+            return longs[slot(index, Type.LONG)];
+        }
+
+        /**
+         * Get a long value by its key.
+         */
+        public long getLong(String key) {
+            return getLong(index(key));
+        }
+
+        /**
+         * Get a double value by the position its key was added to the projection in.
+         */
+        public double getDouble(int index) {
+            return doubles[slot(index, Type.DOUBLE)];
+        }
+
+        /**
+         * Get a double value by its key.
+         */
+        public double getDouble(String key) {
+            return getDouble(index(key));
+        }
+
+        /**
+         * Get a boolean value by the position its key was added to the projection in.
+         */
+        public boolean getBoolean(int index) {
+            return booleans[slot(index, Type.BOOLEAN)];
+        }
+
+        /**
+         * Get a boolean value by its key.
+         */
+        public boolean getBoolean(String key) {
+            return getBoolean(index(key));
+        }
+
+        /**
+         * Check if the key at the given position was present in the configuration, as opposed to
+         * falling back to its default.
+         */
+        public boolean hasKey(int index) {
+            return present[checkIndex(index)];
+        }
+
+        /**
+         * Check if the key was present in the configuration, as opposed to falling back to its default.
+         */
+        public boolean hasKey(String key) {
+            return hasKey(index(key));
+        }
+
+        private int index(String key) {
+            int index = indexOf(key);
+            if (index == -1) {
+                throw new IllegalArgumentException("Key is not part of this projection: " + key);
+            }
+            return index;
+        }
+
+        private int checkIndex(int index) {
+            if (index < 0 || index >= keys.length) {
+                throw new IllegalArgumentException("Index " + index + " is out of range for a projection of "
+                    + keys.length + " keys");
+            }
+            return index;
+        }
+
+        private int slot(int index, Type type) {
+            if (types[checkIndex(index)] != type) {
+                throw new IllegalArgumentException("Key " + keys[index] + " is projected as " + types[index]
+                    + ", not " + type);
+            }
+            return slots[index];
+        }
+    }
+
+    public static class Builder {
+        private final List<String> keys = new ArrayList<>();
+        private final List<String[]> keyParts = new ArrayList<>();
+        private final List<Type> types = new ArrayList<>();
+        private final List<Object> defaults = new ArrayList<>();
+
+        public Builder addString(String key, String defaultValue) {
+            return add(key, Type.STRING, defaultValue);
+        }
+
+        public Builder addInt(String key, int defaultValue) {
+            return add(key, Type.INT, defaultValue);
+        }
+
+        public Builder addLong(String key, long defaultValue) {
+            return add(key, Type.LONG, defaultValue);
+        }
+
+        public Builder addDouble(String key, double defaultValue) {
+            return add(key, Type.DOUBLE, defaultValue);
+        }
+
+        public Builder addBoolean(String key, boolean defaultValue) {
+            return add(key, Type.BOOLEAN, defaultValue);
+        }
+
+        private Builder add(String key, Type type, Object defaultValue) {
+            if (key == null || key.trim().isEmpty()) {
+                throw new IllegalArgumentException("Projection key must not be empty");
+            }
+            if (keys.contains(key)) {
+                throw new IllegalArgumentException("Duplicate projection key: " + key);
+            }
+            String[] parts = key.split("\\.", -1);
+            for (String part : parts) {
+                if (part.isEmpty()) {
+                    throw new IllegalArgumentException("Projection key has an empty segment: " + key);
+                }
+            }
+            keys.add(key);
+            keyParts.add(parts);
+            types.add(type);
+            defaults.add(defaultValue);
+            return this;
+        }
+
+        public ConfigProjection build() {
+            if (keys.isEmpty()) {
+                throw new IllegalArgumentException("At least one key must be specified");
+            }
+            return new ConfigProjection(this);
+        }
+    }
+}
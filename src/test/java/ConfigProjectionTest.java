@@ -0,0 +1,227 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigProjectionTest {
+
+    private Config config;
+    private ConfigProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> database = new HashMap<>();
+        database.put("host", "db.example.com");
+        database.put("port", 6543);
+        database.put("timeout", 30000L);
+
+        Map<String, Object> cache = new HashMap<>();
+        cache.put("enabled", true);
+        cache.put("ratio", 0.75);
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("database", database);
+        map.put("cache", cache);
+        config = new Config(map);
+
+        projection = ConfigProjection.builder()
+            .addString("database.host", "localhost")
+            .addInt("database.port", 5432)
+            .addLong("database.timeout", 1000L)
+            .addDouble("cache.ratio", 0.5)
+            .addBoolean("cache.enabled", false)
+            .build();
+    }
+
+    @Test
+    void readsTypedValuesByKey() {
+        ConfigProjection.Result result = projection.resolve(config);
+
+        assertEquals("db.example.com", result.getString("database.host"));
+        assertEquals(6543, result.getInt("database.port"));
+        assertEquals(30000L, result.getLong("database.timeout"));
+        assertEquals(0.75, result.getDouble("cache.ratio"));
+        assertTrue(result.getBoolean("cache.enabled"));
+    }
+
+    @Test
+    void readsTypedValuesByPosition() {
+        ConfigProjection.Result result = config.project(projection);
+
+        assertEquals("db.example.com", result.getString(0));
+        assertEquals(6543, result.getInt(1));
+        assertEquals(30000L, result.getLong(2));
+        assertEquals(0.75, result.getDouble(3));
+        assertTrue(result.getBoolean(4));
+        assertEquals(1, projection.indexOf("database.port"));
+        assertEquals(-1, projection.indexOf("missing"));
+        assertEquals(5, projection.size());
+    }
+
+    @Test
+    void fallsBackToDefaultsForMissingKeys() {
+        ConfigProjection missing = ConfigProjection.builder()
+            .addString("app.name", "MyApplication")
+            .addInt("app.port", 8080)
+            .addLong("app.timeout", 2000L)
+            .addDouble("app.ratio", 0.25)
+            .addBoolean("app.debug", true)
+            .addString("database.host", "localhost")
+            .build();
+
+        ConfigProjection.Result result = missing.resolve(config);
+
+        assertEquals("MyApplication", result.getString("app.name"));
+        assertEquals(8080, result.getInt("app.port"));
+        assertEquals(2000L, result.getLong("app.timeout"));
+        assertEquals(0.25, result.getDouble("app.ratio"));
+        assertTrue(result.getBoolean("app.debug"));
+        assertFalse(result.hasKey("app.name"));
+        assertFalse(result.hasKey(1));
+        assertTrue(result.hasKey("database.host"));
+        assertTrue(result.hasKey(5));
+    }
+
+    @Test
+    void coercesValuesLikeConfigGetters() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("int", "42");
+        values.put("long", "9000000000");
+        values.put("double", "3.5");
+        values.put("boolean", "yes");
+        values.put("invalid", "not-a-number");
+        values.put("number", 7);
+        Map<String, Object> map = new HashMap<>();
+        map.put("values", values);
+        Config strings = new Config(map);
+
+        ConfigProjection.Result result = ConfigProjection.builder()
+            .addInt("values.int", 0)
+            .addLong("values.long", 0L)
+            .addDouble("values.double", 0.0)
+            .addBoolean("values.boolean", false)
+            .addInt("values.invalid", -1)
+            .addString("values.number", null)
+            .build()
+            .resolve(strings);
+
+        assertEquals(strings.getInt("values.int", 0), result.getInt("values.int"));
+        assertEquals(42, result.getInt("values.int"));
+        assertEquals(strings.getLong("values.long", 0L), result.getLong("values.long"));
+        assertEquals(9000000000L, result.getLong("values.long"));
+        assertEquals(strings.getDouble("values.double", 0.0), result.getDouble("values.double"));
+        assertEquals(3.5, result.getDouble("values.double"));
+        assertEquals(strings.getBoolean("values.boolean", false), result.getBoolean("values.boolean"));
+        assertTrue(result.getBoolean("values.boolean"));
+        assertEquals(strings.getInt("values.invalid", -1), result.getInt("values.invalid"));
+        assertEquals(-1, result.getInt("values.invalid"));
+        assertEquals(strings.getString("values.number", null), result.getString("values.number"));
+        assertEquals("7", result.getString("values.number"));
+    }
+
+    @Test
+    void reusesCachedResultForSameConfig() {
+        ConfigProjection.Result first = projection.resolve(config);
+        ConfigProjection.Result second = projection.resolve(config);
+
+        assertSame(first, second);
+        assertSame(config, first.getConfig());
+    }
+
+    @Test
+    void isNotAffectedByChangesToSourceMap() {
+        Map<String, Object> database = new HashMap<>();
+        database.put("port", 6543);
+        Map<String, Object> map = new HashMap<>();
+        map.put("database", database);
+        Config snapshot = new Config(map);
+
+        ConfigProjection.Result result = projection.resolve(snapshot);
+        database.put("port", 7000);
+
+        assertEquals(6543, snapshot.getInt("database.port", 0));
+        assertEquals(6543, projection.resolve(snapshot).getInt("database.port"));
+        assertSame(result, projection.resolve(snapshot));
+    }
+
+    @Test
+    void resolvesNewResultAfterReload(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("application.json");
+        Files.writeString(file, "{\"database\": {\"host\": \"first\", \"port\": 1111}}");
+
+        ConfigManager manager = ConfigManager.builder()
+            .addConfigFile(file.toString())
+            .build();
+
+        try {
+            ConfigProjection.Result first = manager.project(projection);
+            assertEquals("first", first.getString("database.host"));
+            assertSame(first, manager.project(projection));
+
+            Files.writeString(file, "{\"database\": {\"host\": \"second\", \"port\": 2222}}");
+            manager.reload();
+
+            ConfigProjection.Result second = manager.project(projection);
+            assertNotSame(first, second);
+            assertSame(manager.getConfig(), second.getConfig());
+            assertEquals("second", second.getString("database.host"));
+            assertEquals(2222, second.getInt("database.port"));
+            assertEquals("first", first.getString("database.host"));
+        } finally {
+            manager.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsReadWithWrongType() {
+        ConfigProjection.Result result = projection.resolve(config);
+
+        assertThrows(IllegalArgumentException.class, () -> result.getInt("database.host"));
+        assertThrows(IllegalArgumentException.class, () -> result.getString(1));
+    }
+
+    @Test
+    void rejectsUnknownKeyAndPosition() {
+        ConfigProjection.Result result = projection.resolve(config);
+
+        assertThrows(IllegalArgumentException.class, () -> result.getString("database.user"));
+        assertThrows(IllegalArgumentException.class, () -> result.hasKey("database.user"));
+        assertThrows(IllegalArgumentException.class, () -> result.getString(-1));
+        assertThrows(IllegalArgumentException.class, () -> result.getBoolean(5));
+        assertThrows(IllegalArgumentException.class, () -> result.hasKey(5));
+    }
+
+    @Test
+    void rejectsDuplicateKey() {
+        ConfigProjection.Builder builder = ConfigProjection.builder().addString("database.host", "localhost");
+
+        assertThrows(IllegalArgumentException.class, () -> builder.addInt("database.host", 0));
+    }
+
+    @Test
+    void rejectsEmptyBuilder() {
+        assertThrows(IllegalArgumentException.class, () -> ConfigProjection.builder().build());
+    }
+
+    @Test
+    void rejectsKeysWithEmptySegments() {
+        ConfigProjection.Builder builder = ConfigProjection.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.addString("", null));
+        assertThrows(IllegalArgumentException.class, () -> builder.addString(".", null));
+        assertThrows(IllegalArgumentException.class, () -> builder.addString("..", null));
+        assertThrows(IllegalArgumentException.class, () -> builder.addString("database..host", null));
+        assertThrows(IllegalArgumentException.class, () -> builder.addString("database.host.", null));
+    }
+
+    @Test
+    void rejectsNullConfig() {
+        assertThrows(IllegalArgumentException.class, () -> projection.resolve(null));
+    }
+}